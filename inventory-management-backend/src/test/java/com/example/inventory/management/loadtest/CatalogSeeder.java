@@ -0,0 +1,96 @@
+package com.example.inventory.management.loadtest;
+
+import com.example.inventory.management.model.Product;
+import com.example.inventory.management.model.ProductRawMaterial;
+import com.example.inventory.management.model.RawMaterial;
+import io.quarkus.hibernate.orm.panache.Panache;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.transaction.Transactional;
+import org.hibernate.Session;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Fills the database with a synthetic catalog of configurable size before the load test starts.
+ * Entities are persisted directly through Panache, which is much faster than going through the REST API.
+ */
+@ApplicationScoped
+public class CatalogSeeder {
+
+    /** JDBC batch size used while seeding. */
+    private static final int SEED_BATCH_SIZE = 50;
+
+    /**
+     * Deletes any existing data and creates raw materials, products and their associations.
+     * @param settings The load test settings defining the catalog size.
+     * @return The identifiers of the created entities.
+     */
+    @Transactional // The whole catalog is created in a single transaction
+    public SyntheticCatalog seed(LoadTestSettings settings) {
+        // Only applies to this session: requests of the measured run keep the application's settings
+        Panache.getEntityManager().unwrap(Session.class).setJdbcBatchSize(SEED_BATCH_SIZE);
+
+        ProductRawMaterial.deleteAll();
+        Product.deleteAll();
+        RawMaterial.deleteAll();
+
+        Random random = new Random(settings.seed);
+        SyntheticCatalog catalog = new SyntheticCatalog();
+
+        // Entities are persisted one type at a time: Hibernate ends a JDBC batch whenever the entity type changes
+        List<RawMaterial> rawMaterials = new ArrayList<>();
+        for (int i = 0; i < settings.rawMaterials; i++) {
+            RawMaterial rawMaterial = rawMaterial(String.format("RM-%06d", i), "Raw material " + i, random);
+            rawMaterials.add(rawMaterial);
+            catalog.rawMaterials.add(new SyntheticCatalog.Item(rawMaterial.id, rawMaterial.code));
+        }
+        RawMaterial workloadRawMaterial = rawMaterial("RM-WORKLOAD", "Raw material reserved for the workload", random);
+        catalog.workloadRawMaterial = new SyntheticCatalog.Item(workloadRawMaterial.id, workloadRawMaterial.code);
+
+        List<Product> products = new ArrayList<>();
+        for (int i = 0; i < settings.products; i++) {
+            Product product = product(String.format("P-%06d", i), "Product " + i, random);
+            products.add(product);
+            catalog.products.add(new SyntheticCatalog.Item(product.id, product.code));
+        }
+        Product workloadProduct = product("P-WORKLOAD", "Product reserved for the workload", random);
+        catalog.workloadProduct = new SyntheticCatalog.Item(workloadProduct.id, workloadProduct.code);
+
+        // A product cannot require more distinct raw materials than exist
+        int materialsPerProduct = Math.min(settings.materialsPerProduct, rawMaterials.size());
+        List<RawMaterial> shuffled = new ArrayList<>(rawMaterials);
+        for (Product product : products) {
+            Collections.shuffle(shuffled, random);
+            for (RawMaterial rawMaterial : shuffled.subList(0, materialsPerProduct)) {
+                ProductRawMaterial productRawMaterial = new ProductRawMaterial();
+                productRawMaterial.product = product;
+                productRawMaterial.rawMaterial = rawMaterial;
+                productRawMaterial.quantityNeeded = 1 + random.nextInt(50);
+                productRawMaterial.persist();
+                catalog.associations.add(new SyntheticCatalog.Association(productRawMaterial.id, product.id, rawMaterial.id));
+            }
+        }
+        return catalog;
+    }
+
+    private static RawMaterial rawMaterial(String code, String name, Random random) {
+        RawMaterial rawMaterial = new RawMaterial();
+        rawMaterial.code = code;
+        rawMaterial.name = name;
+        rawMaterial.quantityInStock = 1_000 + random.nextInt(100_000);
+        rawMaterial.persist();
+        return rawMaterial;
+    }
+
+    private static Product product(String code, String name, Random random) {
+        Product product = new Product();
+        product.code = code;
+        product.name = name;
+        product.value = 1 + random.nextInt(100_000) / 100.0;
+        product.persist();
+        return product;
+    }
+}
@@ -0,0 +1,217 @@
+package com.example.inventory.management.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Deque;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+/**
+ * Requests sent by the load test against the inventory REST API.
+ * CRUD workloads read and update the seeded catalog, and only delete entities they created themselves.
+ * Creates and deletes have the same weight, so the catalog size stays stable on average during the run.
+ * Created associations only link the product and raw material reserved for the workload,
+ * so the requirements of the seeded products never change.
+ *
+ * Each stream draws its choices from its own {@link Random}, seeded from the load test seed.
+ */
+public class InventoryWorkload {
+
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(30);
+
+    private final URI baseUri;
+    private final SyntheticCatalog catalog;
+    /** Random generator of the raw material bursts. */
+    private final Random burstRandom;
+    private final HttpClient client = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(Duration.ofSeconds(5))
+            .build();
+    private final ObjectMapper mapper = new ObjectMapper();
+    /** Source of unique codes for created entities. */
+    private final AtomicLong sequence = new AtomicLong();
+
+    /** CRUD workload on /products. */
+    public final Crud<SyntheticCatalog.Item> products;
+    /** CRUD workload on /rawmaterials. */
+    public final Crud<SyntheticCatalog.Item> rawMaterials;
+    /** CRUD workload on /productrawmaterials. */
+    public final Crud<SyntheticCatalog.Association> productRawMaterials;
+
+    /**
+     * @param baseUri Root URI of the application under test.
+     * @param catalog The seeded catalog.
+     * @param seed Seed of the random generators of the streams.
+     */
+    public InventoryWorkload(URI baseUri, SyntheticCatalog catalog, long seed) {
+        this.baseUri = baseUri;
+        this.catalog = catalog;
+        this.burstRandom = new Random(seed + 1);
+        this.products = new Crud<>("/products", catalog.products, new Random(seed + 2), item -> item.id,
+                this::productBody, random -> productBody(new SyntheticCatalog.Item(0, "LT-P-" + sequence.incrementAndGet()), random),
+                (id, body) -> new SyntheticCatalog.Item(id, body.get("code").asText()));
+        this.rawMaterials = new Crud<>("/rawmaterials", catalog.rawMaterials, new Random(seed + 3), item -> item.id,
+                this::rawMaterialBody, random -> rawMaterialBody(new SyntheticCatalog.Item(0, "LT-RM-" + sequence.incrementAndGet()), random),
+                (id, body) -> new SyntheticCatalog.Item(id, body.get("code").asText()));
+        this.productRawMaterials = new Crud<>("/productrawmaterials", catalog.associations, new Random(seed + 4), association -> association.id,
+                this::productRawMaterialBody, random -> productRawMaterialBody(new SyntheticCatalog.Association(0,
+                        catalog.workloadProduct.id, catalog.workloadRawMaterial.id), random),
+                (id, body) -> new SyntheticCatalog.Association(id,
+                        body.get("product").get("id").asLong(), body.get("rawMaterial").get("id").asLong()));
+    }
+
+    /**
+     * Updates the stock of a random seeded raw material, as done in bursts when stock is received.
+     * @return The PUT /rawmaterials/{id} request.
+     */
+    public LoadDriver.Request burstUpdateRawMaterial() {
+        SyntheticCatalog.Item rawMaterial = pick(catalog.rawMaterials, burstRandom);
+        ObjectNode requestBody = rawMaterialBody(rawMaterial, burstRandom);
+        return new LoadDriver.Request("PUT /rawmaterials/{id} (burst)",
+                () -> send("PUT", "/rawmaterials/" + rawMaterial.id, requestBody).statusCode());
+    }
+
+    /**
+     * Requests the production suggestions, as polled by the production page.
+     * @return The GET /production/suggested request.
+     */
+    public LoadDriver.Request pollSuggestedProduction() {
+        return new LoadDriver.Request("GET /production/suggested",
+                () -> send("GET", "/production/suggested", null).statusCode());
+    }
+
+    /**
+     * Mix of read, create, update and delete requests on one resource.
+     * @param <T> The type describing an entity of the resource.
+     */
+    public class Crud<T> {
+        private final String path;
+        private final List<T> seeded;
+        private final Deque<T> created = new ConcurrentLinkedDeque<>();
+        private final Random random;
+        private final Function<T, Long> id;
+        private final BiFunction<T, Random, ObjectNode> updateBody;
+        private final Function<Random, ObjectNode> createBody;
+        private final EntityReader<T> reader;
+
+        Crud(String path, List<T> seeded, Random random, Function<T, Long> id, BiFunction<T, Random, ObjectNode> updateBody,
+             Function<Random, ObjectNode> createBody, EntityReader<T> reader) {
+            this.path = path;
+            this.seeded = seeded;
+            this.random = random;
+            this.id = id;
+            this.updateBody = updateBody;
+            this.createBody = createBody;
+            this.reader = reader;
+        }
+
+        /**
+         * Chooses the next request of the mix: 50% reads, 15% creates, 20% updates and 15% deletes.
+         * @return The request.
+         */
+        public LoadDriver.Request next() {
+            int pick = random.nextInt(20);
+            if (pick < 10) {
+                return read();
+            } else if (pick < 13) {
+                return create();
+            } else if (pick < 17) {
+                return update();
+            } else {
+                return delete();
+            }
+        }
+
+        private LoadDriver.Request read() {
+            long entityId = id.apply(pick(seeded, random));
+            return new LoadDriver.Request("GET " + path + "/{id}",
+                    () -> send("GET", path + "/" + entityId, null).statusCode());
+        }
+
+        private LoadDriver.Request create() {
+            ObjectNode requestBody = createBody.apply(random);
+            return new LoadDriver.Request("POST " + path, () -> {
+                HttpResponse<String> response = send("POST", path, requestBody);
+                if (response.statusCode() == 201) {
+                    ObjectNode body = (ObjectNode) mapper.readTree(response.body());
+                    created.add(reader.read(body.get("id").asLong(), body));
+                }
+                return response.statusCode();
+            });
+        }
+
+        private LoadDriver.Request update() {
+            T entity = pick(seeded, random);
+            ObjectNode requestBody = updateBody.apply(entity, random);
+            return new LoadDriver.Request("PUT " + path + "/{id}",
+                    () -> send("PUT", path + "/" + id.apply(entity), requestBody).statusCode());
+        }
+
+        private LoadDriver.Request delete() {
+            T entity = created.pollFirst();
+            if (entity == null) {
+                // Nothing left to delete: create instead, so creates and deletes stay balanced
+                return create();
+            }
+            return new LoadDriver.Request("DELETE " + path + "/{id}",
+                    () -> send("DELETE", path + "/" + id.apply(entity), null).statusCode());
+        }
+    }
+
+    /** Builds the description of a created entity from the response of its creation. */
+    @FunctionalInterface
+    interface EntityReader<T> {
+        T read(long id, ObjectNode body);
+    }
+
+    private ObjectNode productBody(SyntheticCatalog.Item product, Random random) {
+        ObjectNode body = mapper.createObjectNode();
+        body.put("code", product.code); // The code is unique and must not change
+        body.put("name", "Product " + product.code);
+        body.put("value", 1 + random.nextInt(100_000) / 100.0);
+        return body;
+    }
+
+    private ObjectNode rawMaterialBody(SyntheticCatalog.Item rawMaterial, Random random) {
+        ObjectNode body = mapper.createObjectNode();
+        body.put("code", rawMaterial.code); // The code is unique and must not change
+        body.put("name", "Raw material " + rawMaterial.code);
+        body.put("quantityInStock", 1_000 + random.nextInt(100_000));
+        return body;
+    }
+
+    private ObjectNode productRawMaterialBody(SyntheticCatalog.Association association, Random random) {
+        ObjectNode body = mapper.createObjectNode();
+        body.putObject("product").put("id", association.productId);
+        body.putObject("rawMaterial").put("id", association.rawMaterialId);
+        body.put("quantityNeeded", 1 + random.nextInt(50));
+        return body;
+    }
+
+    private HttpResponse<String> send(String method, String path, ObjectNode body) throws Exception {
+        HttpRequest.BodyPublisher publisher = body != null
+                ? HttpRequest.BodyPublishers.ofString(mapper.writeValueAsString(body))
+                : HttpRequest.BodyPublishers.noBody();
+        HttpRequest request = HttpRequest.newBuilder(baseUri.resolve(path))
+                .timeout(REQUEST_TIMEOUT)
+                .header("Content-Type", "application/json")
+                .header("Accept", "application/json")
+                .method(method, publisher)
+                .build();
+        return client.send(request, HttpResponse.BodyHandlers.ofString());
+    }
+
+    private static <T> T pick(List<T> items, Random random) {
+        return items.get(random.nextInt(items.size()));
+    }
+}
@@ -0,0 +1,59 @@
+package com.example.inventory.management.loadtest;
+
+import java.util.Arrays;
+
+/**
+ * Thread-safe collector of the latencies observed for one operation.
+ * All samples are kept so that percentiles are exact, at a cost of 8 bytes per recorded request held for the whole run.
+ */
+public class LatencyRecorder {
+
+    /** Latencies of all recorded requests, whether they got a response or not. */
+    private long[] latencies = new long[1024];
+    private int count;
+    /** Requests that got a response, whatever its status. */
+    private long responses;
+    /** Requests that got a non-2xx response. */
+    private long errorResponses;
+    /** Requests that failed without response, e.g. on timeout. */
+    private long noResponseFailures;
+
+    /**
+     * Records a request that got a response.
+     * @param latencyNanos Time between the scheduled send time and the end of the response.
+     * @param success Whether the request succeeded (2xx status).
+     */
+    public synchronized void record(long latencyNanos, boolean success) {
+        responses++;
+        if (!success) {
+            errorResponses++;
+        }
+        add(latencyNanos);
+    }
+
+    /**
+     * Records a request that failed without producing a response.
+     * @param latencyNanos Time between the scheduled send time and the failure.
+     */
+    public synchronized void recordNoResponse(long latencyNanos) {
+        noResponseFailures++;
+        add(latencyNanos);
+    }
+
+    /**
+     * Computes the statistics of the samples recorded so far.
+     * @param measuredSeconds Length of the measurement window, used to compute throughput.
+     * @return The statistics of this operation.
+     */
+    public synchronized LoadTestReport.OperationStats stats(double measuredSeconds) {
+        return LoadTestReport.OperationStats.of(Arrays.copyOf(latencies, count),
+                responses, errorResponses, noResponseFailures, measuredSeconds);
+    }
+
+    private void add(long latencyNanos) {
+        if (count == latencies.length) {
+            latencies = Arrays.copyOf(latencies, count * 2);
+        }
+        latencies[count++] = latencyNanos;
+    }
+}
@@ -0,0 +1,223 @@
+package com.example.inventory.management.loadtest;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Open-model load generator: requests are issued at fixed arrival rates, independently of how fast the server answers.
+ * Latency is measured from the time a request was scheduled to be sent, so that queueing caused by a slow server
+ * is part of the reported latency instead of silently lowering the request rate.
+ */
+public class LoadDriver {
+
+    /** Time given to queued and in-flight requests to complete once all requests have been issued. */
+    private static final Duration DRAIN_TIMEOUT = Duration.ofSeconds(60);
+
+    /** Source of the requests of a stream. */
+    @FunctionalInterface
+    public interface Operation {
+        /**
+         * Chooses the next request to send, without sending it.
+         * Called in schedule order from one thread at a time, so a seeded random generator gives reproducible choices.
+         * @return The request, labelled before it is sent so that failures are recorded under the same label.
+         */
+        Request next();
+    }
+
+    /** Sends one request to the application under test and waits for its response. */
+    @FunctionalInterface
+    public interface Sender {
+        /**
+         * @return The HTTP status of the response.
+         * @throws Exception If no response could be obtained, e.g. on timeout.
+         */
+        int send() throws Exception;
+    }
+
+    /** A labelled request, produced by an {@link Operation}. */
+    public static class Request {
+        public final String label;
+        public final Sender sender;
+
+        public Request(String label, Sender sender) {
+            this.label = label;
+            this.sender = sender;
+        }
+    }
+
+    /** A stream of requests, issued {@code requestsPerTick} at a time every {@code periodNanos}. */
+    private static class Stream {
+        final long periodNanos;
+        final int requestsPerTick;
+        final Operation operation;
+
+        Stream(long periodNanos, int requestsPerTick, Operation operation) {
+            this.periodNanos = periodNanos;
+            this.requestsPerTick = requestsPerTick;
+            this.operation = operation;
+        }
+    }
+
+    private final int workerThreads;
+    private final List<Stream> streams = new ArrayList<>();
+    private final Map<String, LatencyRecorder> recorders = new ConcurrentHashMap<>();
+
+    private volatile long measureStartNanos;
+    private volatile long measureEndNanos;
+
+    /**
+     * @param workerThreads Number of threads sending requests concurrently.
+     */
+    public LoadDriver(int workerThreads) {
+        this.workerThreads = workerThreads;
+    }
+
+    /**
+     * Adds a stream sending one request at a fixed rate.
+     * @param requestsPerSecond Arrival rate; a rate of zero or less disables the stream.
+     * @param operation The source of the requests to send.
+     */
+    public void addConstantRate(double requestsPerSecond, Operation operation) {
+        if (requestsPerSecond > 0) {
+            streams.add(new Stream(Math.round(1_000_000_000 / requestsPerSecond), 1, operation));
+        }
+    }
+
+    /**
+     * Adds a stream sending bursts of simultaneous requests at a fixed interval.
+     * @param burstSize Number of requests sent at once; zero or less disables the stream.
+     * @param interval Time between the start of two bursts.
+     * @param operation The source of the requests to send.
+     */
+    public void addBursts(int burstSize, Duration interval, Operation operation) {
+        if (burstSize > 0) {
+            streams.add(new Stream(interval.toNanos(), burstSize, operation));
+        }
+    }
+
+    /**
+     * Runs all streams for the warm-up period followed by the measured period, then waits for in-flight requests.
+     * Only requests scheduled within the measured period are recorded. Requests that could not be sent before
+     * the drain timeout are recorded as failures without response, so an overloaded server cannot hide them.
+     * @param warmup Duration of the unrecorded warm-up.
+     * @param duration Duration of the measurement.
+     * @return The statistics of each operation, keyed by label.
+     * @throws InterruptedException If interrupted while waiting for the run to finish.
+     * @throws IllegalStateException If in-flight requests do not stop after the drain timeout.
+     */
+    public Map<String, LoadTestReport.OperationStats> run(Duration warmup, Duration duration) throws InterruptedException {
+        ScheduledExecutorService scheduler = Executors.newScheduledThreadPool(Math.max(1, streams.size()));
+        ExecutorService workers = Executors.newFixedThreadPool(workerThreads);
+
+        long startNanos = System.nanoTime();
+        measureStartNanos = startNanos + warmup.toNanos();
+        measureEndNanos = measureStartNanos + duration.toNanos();
+
+        CountDownLatch issued = new CountDownLatch(streams.size());
+        List<AtomicLong> tickCounters = new ArrayList<>();
+        for (Stream stream : streams) {
+            long tickCount = tickCount(stream, startNanos);
+            AtomicLong ticks = new AtomicLong();
+            tickCounters.add(ticks);
+            scheduler.scheduleAtFixedRate(() -> {
+                long tick = ticks.getAndIncrement();
+                if (tick >= tickCount) {
+                    return;
+                }
+                // Use the theoretical send time: a late tick must not hide the delay from the measurement
+                long scheduledNanos = startNanos + tick * stream.periodNanos;
+                for (int i = 0; i < stream.requestsPerTick; i++) {
+                    workers.execute(new ScheduledRequest(stream.operation.next(), scheduledNanos));
+                }
+                if (tick == tickCount - 1) {
+                    issued.countDown();
+                }
+            }, 0, stream.periodNanos, TimeUnit.NANOSECONDS);
+        }
+
+        // Wait for every tick of the measured period, even if the scheduler fell behind
+        issued.await(measureEndNanos - System.nanoTime() + DRAIN_TIMEOUT.toNanos(), TimeUnit.NANOSECONDS);
+        scheduler.shutdownNow();
+        scheduler.awaitTermination(10, TimeUnit.SECONDS);
+        for (int i = 0; i < streams.size(); i++) {
+            Stream stream = streams.get(i);
+            // Ticks that never fired were due during the measured period: count them as failures
+            for (long tick = tickCounters.get(i).get(); tick < tickCount(stream, startNanos); tick++) {
+                for (int j = 0; j < stream.requestsPerTick; j++) {
+                    new ScheduledRequest(stream.operation.next(), startNanos + tick * stream.periodNanos).drop();
+                }
+            }
+        }
+
+        // Let queued and in-flight requests complete so their latency is accounted for
+        workers.shutdown();
+        if (!workers.awaitTermination(DRAIN_TIMEOUT.toNanos(), TimeUnit.NANOSECONDS)) {
+            for (Runnable pending : workers.shutdownNow()) {
+                ((ScheduledRequest) pending).drop();
+            }
+            // Interrupted requests record their failure before the results are collected
+            if (!workers.awaitTermination(DRAIN_TIMEOUT.toNanos(), TimeUnit.NANOSECONDS)) {
+                throw new IllegalStateException("In-flight requests did not stop within " + DRAIN_TIMEOUT);
+            }
+        }
+
+        double measuredSeconds = duration.toNanos() / 1e9;
+        Map<String, LoadTestReport.OperationStats> results = new TreeMap<>();
+        recorders.forEach((label, recorder) -> results.put(label, recorder.stats(measuredSeconds)));
+        return results;
+    }
+
+    /** Returns the number of ticks of a stream scheduled strictly before the end of the measured period. */
+    private long tickCount(Stream stream, long startNanos) {
+        return (measureEndNanos - startNanos + stream.periodNanos - 1) / stream.periodNanos;
+    }
+
+    /** A request waiting for a worker, with the time it was scheduled to be sent. */
+    private class ScheduledRequest implements Runnable {
+        final Request request;
+        final long scheduledNanos;
+
+        ScheduledRequest(Request request, long scheduledNanos) {
+            this.request = request;
+            this.scheduledNanos = scheduledNanos;
+        }
+
+        @Override
+        public void run() {
+            try {
+                int status = request.sender.send();
+                if (isMeasured()) {
+                    recorder(request.label).record(System.nanoTime() - scheduledNanos, status >= 200 && status < 300);
+                }
+            } catch (Exception e) {
+                // Timeouts are the slowest requests: keep their latency so they show up in the percentiles
+                drop();
+            }
+        }
+
+        /** Records the request as failed without response, e.g. because it was never sent. */
+        void drop() {
+            if (isMeasured()) {
+                recorder(request.label).recordNoResponse(System.nanoTime() - scheduledNanos);
+            }
+        }
+
+        private boolean isMeasured() {
+            return scheduledNanos >= measureStartNanos && scheduledNanos < measureEndNanos;
+        }
+    }
+
+    private LatencyRecorder recorder(String label) {
+        return recorders.computeIfAbsent(label, key -> new LatencyRecorder());
+    }
+}
@@ -0,0 +1,161 @@
+package com.example.inventory.management.loadtest;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Machine-readable result of a load test run, written as JSON so that runs of different versions can be compared.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class LoadTestReport {
+
+    /** Version of the application under test. */
+    public String version;
+    /** Start time of the run, in ISO-8601 format. */
+    public String startedAt;
+    /** Java runtime running both the application and the load generator. */
+    public String javaVersion;
+    /** JDBC URL of the database used during the run. */
+    public String database;
+    /** Settings the run was executed with. */
+    public Map<String, Object> settings;
+    /** Number of raw materials, products and associations seeded before the run. */
+    public Map<String, Integer> catalog;
+    /** Aggregated statistics of all operations. */
+    public OperationStats total;
+    /** Statistics per operation, keyed by label (e.g. "GET /production/suggested"). */
+    public Map<String, OperationStats> operations;
+
+    /** Throughput and latency distribution of one operation. */
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    public static class OperationStats {
+        /** Number of requests recorded during the measured period. */
+        public long requests;
+        /** Number of requests that failed, either with a non-2xx status or without response. */
+        public long errors;
+        /** Number of requests that failed without response, e.g. on timeout. Included in {@link #errors}. */
+        public long noResponse;
+        /** Responses received per second. */
+        public double throughputPerSecond;
+        /** Latency distribution of all requests, including those without response, in milliseconds. Absent if none was recorded. */
+        public Latency latencyMillis;
+
+        /**
+         * Computes the statistics of a set of samples.
+         * @param latencyNanos Latencies of all requests, in nanoseconds.
+         * @param responses Number of requests that got a response.
+         * @param errorResponses Number of requests that got a non-2xx response.
+         * @param noResponseFailures Number of requests that failed without response.
+         * @param measuredSeconds Length of the measurement window.
+         * @return The computed statistics.
+         */
+        public static OperationStats of(long[] latencyNanos, long responses, long errorResponses,
+                                        long noResponseFailures, double measuredSeconds) {
+            OperationStats stats = new OperationStats();
+            stats.requests = responses + noResponseFailures;
+            stats.errors = errorResponses + noResponseFailures;
+            stats.noResponse = noResponseFailures;
+            stats.throughputPerSecond = responses / measuredSeconds;
+            stats.latencyMillis = Latency.of(latencyNanos);
+            return stats;
+        }
+    }
+
+    /** Latency percentiles, in milliseconds. Percentiles use the nearest-rank method. */
+    public static class Latency {
+        public double min;
+        public double mean;
+        public double p50;
+        public double p90;
+        public double p95;
+        public double p99;
+        public double p999;
+        public double max;
+
+        static Latency of(long[] latencyNanos) {
+            if (latencyNanos.length == 0) {
+                // Zeros would read as a speed-up when comparing reports
+                return null;
+            }
+            Latency latency = new Latency();
+            long[] sorted = latencyNanos.clone();
+            Arrays.sort(sorted);
+            latency.min = millis(sorted[0]);
+            latency.mean = millis(Arrays.stream(sorted).sum() / sorted.length);
+            latency.p50 = percentile(sorted, 50);
+            latency.p90 = percentile(sorted, 90);
+            latency.p95 = percentile(sorted, 95);
+            latency.p99 = percentile(sorted, 99);
+            latency.p999 = percentile(sorted, 99.9);
+            latency.max = millis(sorted[sorted.length - 1]);
+            return latency;
+        }
+
+        private static double percentile(long[] sorted, double percentile) {
+            int rank = (int) Math.ceil(percentile / 100 * sorted.length);
+            return millis(sorted[Math.max(0, rank - 1)]);
+        }
+
+        private static double millis(long nanos) {
+            return nanos / 1_000_000.0;
+        }
+    }
+
+    /**
+     * Builds the report of a run.
+     * @param settings The settings the run was executed with.
+     * @param catalog The seeded catalog.
+     * @param operations The statistics of each operation.
+     * @param database The JDBC URL of the database.
+     * @param startedAt The start time of the run.
+     * @return The report.
+     */
+    public static LoadTestReport create(LoadTestSettings settings, SyntheticCatalog catalog,
+                                        Map<String, OperationStats> operations, String database, Instant startedAt) {
+        LoadTestReport report = new LoadTestReport();
+        report.version = settings.version;
+        report.startedAt = startedAt.toString();
+        report.javaVersion = System.getProperty("java.version");
+        report.database = database;
+        report.settings = settings.asMap();
+        report.catalog = new LinkedHashMap<>();
+        // Counts include the product and raw material reserved for the workload
+        report.catalog.put("rawMaterials", catalog.rawMaterials.size() + 1);
+        report.catalog.put("products", catalog.products.size() + 1);
+        report.catalog.put("productRawMaterials", catalog.associations.size());
+        report.operations = operations;
+
+        // Aggregate throughput and errors; latency is only meaningful per operation
+        OperationStats total = new OperationStats();
+        for (OperationStats stats : operations.values()) {
+            total.requests += stats.requests;
+            total.errors += stats.errors;
+            total.noResponse += stats.noResponse;
+            total.throughputPerSecond += stats.throughputPerSecond;
+        }
+        report.total = total;
+        return report;
+    }
+
+    /**
+     * Writes the report as indented JSON, creating parent directories as needed.
+     * @param file The destination file.
+     * @throws IOException If the file cannot be written.
+     */
+    public void write(Path file) throws IOException {
+        Path parent = file.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT).writeValue(file.toFile(), this);
+    }
+}
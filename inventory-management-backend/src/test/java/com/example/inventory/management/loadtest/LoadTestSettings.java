@@ -0,0 +1,141 @@
+package com.example.inventory.management.loadtest;
+
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Tunable parameters of the load test.
+ * Every value can be overridden with a system property, e.g. {@code mvn test -Pload-test -Dloadtest.products=1000}.
+ */
+public class LoadTestSettings {
+
+    /**
+     * Seed for the random generators of the catalog and of each workload stream.
+     * The catalog and the sequence of choices made by each stream are reproducible between runs;
+     * choices depending on responses (e.g. which created entity is deleted) and the timing are not.
+     */
+    public final long seed = longProperty("loadtest.seed", 42L);
+
+    /** Number of raw materials in the synthetic catalog. */
+    public final int rawMaterials = intProperty("loadtest.rawMaterials", 500);
+    /** Number of products in the synthetic catalog. */
+    public final int products = intProperty("loadtest.products", 200);
+    /** Number of raw materials each product requires. */
+    public final int materialsPerProduct = intProperty("loadtest.materialsPerProduct", 5);
+
+    /** Seconds of traffic sent before measurements start. */
+    public final int warmupSeconds = intProperty("loadtest.warmupSeconds", 5);
+    /** Seconds of traffic that are measured. */
+    public final int durationSeconds = intProperty("loadtest.durationSeconds", 30);
+
+    /** Arrival rate (requests per second) of the CRUD workload on /products. */
+    public final double productsRate = doubleProperty("loadtest.productsRate", 20);
+    /** Arrival rate (requests per second) of the CRUD workload on /rawmaterials. */
+    public final double rawMaterialsRate = doubleProperty("loadtest.rawMaterialsRate", 20);
+    /** Arrival rate (requests per second) of the CRUD workload on /productrawmaterials. */
+    public final double productRawMaterialsRate = doubleProperty("loadtest.productRawMaterialsRate", 10);
+    /** Arrival rate (requests per second) of GET /production/suggested. */
+    public final double suggestedRate = doubleProperty("loadtest.suggestedRate", 5);
+
+    /** Number of PUT /rawmaterials/{id} requests sent at once in each burst. */
+    public final int burstSize = intProperty("loadtest.burstSize", 25);
+    /** Interval between two bursts, in milliseconds. */
+    public final long burstIntervalMillis = longProperty("loadtest.burstIntervalMillis", 2000L);
+
+    /** Number of threads sending requests. Bounds the number of in-flight requests. */
+    public final int workerThreads = intProperty("loadtest.workerThreads", 32);
+    /** Highest accepted ratio of failed requests before the test fails. */
+    public final double maxErrorRate = doubleProperty("loadtest.maxErrorRate", 0.01);
+
+    /** Application version recorded in the report (set by the Maven profile). */
+    public final String version = System.getProperty("loadtest.version", "unknown");
+    /** Location of the machine-readable report. */
+    public final Path reportFile = Path.of(System.getProperty("loadtest.report", "target/load-test/report.json"));
+
+    /**
+     * Reads the settings from the system properties.
+     * @throws IllegalArgumentException If a value would make the load test unable to run.
+     */
+    public LoadTestSettings() {
+        // The workload picks random seeded entities, so none of the catalog lists may be empty
+        require(rawMaterials >= 1, "loadtest.rawMaterials must be at least 1, was " + rawMaterials);
+        require(products >= 1, "loadtest.products must be at least 1, was " + products);
+        require(materialsPerProduct >= 1, "loadtest.materialsPerProduct must be at least 1, was " + materialsPerProduct);
+
+        require(warmupSeconds >= 0, "loadtest.warmupSeconds must not be negative, was " + warmupSeconds);
+        require(durationSeconds >= 1, "loadtest.durationSeconds must be at least 1, was " + durationSeconds);
+
+        // Requests are scheduled with nanosecond periods: a rate above 1e9/s would give a period of zero
+        requireRate("loadtest.productsRate", productsRate);
+        requireRate("loadtest.rawMaterialsRate", rawMaterialsRate);
+        requireRate("loadtest.productRawMaterialsRate", productRawMaterialsRate);
+        requireRate("loadtest.suggestedRate", suggestedRate);
+        require(burstSize <= 0 || burstIntervalMillis >= 1,
+                "loadtest.burstIntervalMillis must be at least 1 when bursts are enabled, was " + burstIntervalMillis);
+
+        require(workerThreads >= 1, "loadtest.workerThreads must be at least 1, was " + workerThreads);
+        require(maxErrorRate >= 0 && maxErrorRate <= 1, "loadtest.maxErrorRate must be between 0 and 1, was " + maxErrorRate);
+    }
+
+    /**
+     * Returns the settings as an ordered map, for inclusion in the report.
+     * @return The settings keyed by their system property name.
+     */
+    public Map<String, Object> asMap() {
+        Map<String, Object> map = new LinkedHashMap<>();
+        map.put("seed", seed);
+        map.put("rawMaterials", rawMaterials);
+        map.put("products", products);
+        map.put("materialsPerProduct", materialsPerProduct);
+        map.put("warmupSeconds", warmupSeconds);
+        map.put("durationSeconds", durationSeconds);
+        map.put("productsRate", productsRate);
+        map.put("rawMaterialsRate", rawMaterialsRate);
+        map.put("productRawMaterialsRate", productRawMaterialsRate);
+        map.put("suggestedRate", suggestedRate);
+        map.put("burstSize", burstSize);
+        map.put("burstIntervalMillis", burstIntervalMillis);
+        map.put("workerThreads", workerThreads);
+        map.put("maxErrorRate", maxErrorRate);
+        return map;
+    }
+
+    private static void requireRate(String property, double value) {
+        require(value >= 0 && value <= 1_000_000_000,
+                property + " must be between 0 (disabled) and 1e9 requests per second, was " + value);
+    }
+
+    private static void require(boolean condition, String message) {
+        if (!condition) {
+            throw new IllegalArgumentException(message);
+        }
+    }
+
+    private static int intProperty(String property, int defaultValue) {
+        String value = System.getProperty(property);
+        try {
+            return value != null ? Integer.parseInt(value.trim()) : defaultValue;
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException(property + " must be an integer, was '" + value + "'", e);
+        }
+    }
+
+    private static long longProperty(String property, long defaultValue) {
+        String value = System.getProperty(property);
+        try {
+            return value != null ? Long.parseLong(value.trim()) : defaultValue;
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException(property + " must be an integer, was '" + value + "'", e);
+        }
+    }
+
+    private static double doubleProperty(String property, double defaultValue) {
+        String value = System.getProperty(property);
+        try {
+            return value != null ? Double.parseDouble(value.trim()) : defaultValue;
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException(property + " must be a number, was '" + value + "'", e);
+        }
+    }
+}
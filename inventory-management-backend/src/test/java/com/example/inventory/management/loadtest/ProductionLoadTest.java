@@ -0,0 +1,65 @@
+package com.example.inventory.management.loadtest;
+
+import io.quarkus.test.common.http.TestHTTPResource;
+import io.quarkus.test.junit.QuarkusTest;
+import jakarta.inject.Inject;
+import org.eclipse.microprofile.config.ConfigProvider;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.net.URI;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * End-to-end load test of the whole application.
+ * Seeds a synthetic catalog, then drives CRUD traffic on the three resources, bursts of raw material
+ * stock updates and polling of the production suggestions at fixed arrival rates.
+ * Throughput and latency percentiles are written to a JSON report (target/load-test/report.json by default).
+ *
+ * Excluded from the default build; run with {@code mvn test -Pload-test}, see {@link LoadTestSettings} for the options.
+ */
+@QuarkusTest
+@Tag("load")
+public class ProductionLoadTest {
+
+    @Inject
+    CatalogSeeder catalogSeeder;
+
+    @TestHTTPResource("/")
+    URI baseUri;
+
+    @Test
+    public void testMixedWorkload() throws Exception {
+        // Given
+        LoadTestSettings settings = new LoadTestSettings();
+        SyntheticCatalog catalog = catalogSeeder.seed(settings);
+        InventoryWorkload workload = new InventoryWorkload(baseUri, catalog, settings.seed);
+
+        LoadDriver driver = new LoadDriver(settings.workerThreads);
+        driver.addConstantRate(settings.productsRate, workload.products::next);
+        driver.addConstantRate(settings.rawMaterialsRate, workload.rawMaterials::next);
+        driver.addConstantRate(settings.productRawMaterialsRate, workload.productRawMaterials::next);
+        driver.addConstantRate(settings.suggestedRate, workload::pollSuggestedProduction);
+        driver.addBursts(settings.burstSize,
+                Duration.ofMillis(settings.burstIntervalMillis), workload::burstUpdateRawMaterial);
+
+        // When
+        Instant startedAt = Instant.now();
+        Map<String, LoadTestReport.OperationStats> results = driver.run(
+                Duration.ofSeconds(settings.warmupSeconds), Duration.ofSeconds(settings.durationSeconds));
+        String database = ConfigProvider.getConfig().getValue("quarkus.datasource.jdbc.url", String.class);
+        LoadTestReport report = LoadTestReport.create(settings, catalog, results, database, startedAt);
+        report.write(settings.reportFile);
+
+        // Then
+        assertFalse(results.isEmpty(), "The load test should have recorded requests.");
+        double errorRate = (double) report.total.errors / report.total.requests;
+        assertTrue(errorRate <= settings.maxErrorRate,
+                "Error rate " + errorRate + " exceeds the accepted " + settings.maxErrorRate + ", see " + settings.reportFile);
+    }
+}
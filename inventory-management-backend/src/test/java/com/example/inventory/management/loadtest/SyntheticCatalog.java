@@ -0,0 +1,47 @@
+package com.example.inventory.management.loadtest;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Identifiers of the entities created by {@link CatalogSeeder}.
+ * The workload only reads and updates these entities; it never deletes them
+ * and never adds associations to the seeded products.
+ */
+public class SyntheticCatalog {
+
+    /** A seeded product or raw material, with the unique code the workload must preserve on update. */
+    public static class Item {
+        public final long id;
+        public final String code;
+
+        public Item(long id, String code) {
+            this.id = id;
+            this.code = code;
+        }
+    }
+
+    /** A seeded product-raw material association. */
+    public static class Association {
+        public final long id;
+        public final long productId;
+        public final long rawMaterialId;
+
+        public Association(long id, long productId, long rawMaterialId) {
+            this.id = id;
+            this.productId = productId;
+            this.rawMaterialId = rawMaterialId;
+        }
+    }
+
+    public final List<Item> rawMaterials = new ArrayList<>();
+    public final List<Item> products = new ArrayList<>();
+    public final List<Association> associations = new ArrayList<>();
+
+    /**
+     * Product and raw material reserved for the associations created by the workload,
+     * so that the requirements of the seeded products do not change during the run.
+     */
+    public Item workloadProduct;
+    public Item workloadRawMaterial;
+}